@@ -39,6 +39,8 @@ import java.util.concurrent.ThreadLocalRandom;
  * <p>
  * API may be requested at most 5 times in one second.
  * If you send more requests, the requests will throw a CFException with "Call limit exceeded" comment.
+ * To avoid that, the client rate-limits its own requests by default, blocking the callers until they can be sent,
+ * see {@link RateLimiter} and {@code Builder.rateLimit()}.
  *
  * <p><b>Simple Example</b>
  * <pre>{@code     CodeforcesClient client = CodeforcesClient.newCodeforcesClient()
@@ -87,6 +89,10 @@ public class CodeforcesClient {
      * The HttpClient for executing the API requests.
      */
     private final HttpClient httpClient;
+    /**
+     * The rate limiter the requests wait on before being sent, can be <i>null</i> for no rate-limiting.
+     */
+    private final RateLimiter rateLimiter;
 
     /**
      * Creates a new CodeforcesClient with default configuration.
@@ -96,21 +102,24 @@ public class CodeforcesClient {
         this.lang = "en";
         this.apiKey = null;
         this.apiSecret = null;
+        this.rateLimiter = new RateLimiter();
     }
 
     /**
      * Creates a new CodeforcesClient with custom configuration.
      *
-     * @param httpClient The HttpClient for executing the API requests.
-     * @param lang       The language to use for Language-depended fields like names or descriptions.
-     * @param apiKey     The authorization apiKey, can be <i>null</i> for no authorization.
-     * @param apiSecret  The authorization apiSection, must be null when apiKey is, and vice versa.
+     * @param httpClient  The HttpClient for executing the API requests.
+     * @param lang        The language to use for Language-depended fields like names or descriptions.
+     * @param apiKey      The authorization apiKey, can be <i>null</i> for no authorization.
+     * @param apiSecret   The authorization apiSection, must be null when apiKey is, and vice versa.
+     * @param rateLimiter The rate limiter the requests wait on, can be <i>null</i> for no rate-limiting.
      */
-    private CodeforcesClient(HttpClient httpClient, String lang, String apiKey, String apiSecret) {
+    private CodeforcesClient(HttpClient httpClient, String lang, String apiKey, String apiSecret, RateLimiter rateLimiter) {
         this.httpClient = httpClient;
         this.lang = lang;
         this.apiKey = apiKey;
         this.apiSecret = apiSecret;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -167,7 +176,7 @@ public class CodeforcesClient {
      * <p>
      * Equivalent to newBuilder.build();
      * <p>
-     * The default settings include: no authorization, no timeout and default proxy selector.
+     * The default settings include: no authorization, no timeout, default proxy selector and the default rate limit.
      *
      * @return a new CodeforcesClient.
      */
@@ -184,6 +193,15 @@ public class CodeforcesClient {
         return new Builder();
     }
 
+    /**
+     * Returns the rate limiter used by this client, its statistics show the time spent waiting before sending.
+     *
+     * @return The rate limiter of this client, or <i>null</i> when rate-limiting is disabled.
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
     /**
      * Generates a 6 characters string of random characters for usage in authorization.
      *
@@ -209,10 +227,12 @@ public class CodeforcesClient {
      * @return The result of the method.
      * @throws IOException          When the HTTP API connection fails.
      * @throws InterruptedException When the thread is interrupted during the request.
-     * @throws CFException          When the Codeforces API responses with a failure.
+     * @throws CFException          When the Codeforces API responses with a failure, or the rate limiter wait is too long.
      */
     private <R> R request(String methodName, SortedMap<String, String> parameters, Class<R> type) throws IOException, InterruptedException, CFException {
-        //TODO: Rate-limit system.
+        //Wait for a sending slot, before signing the request, so the signature time is fresh.
+        if (rateLimiter != null) rateLimiter.acquire();
+
         parameters.put("lang", lang);
 
         String endpoint = (apiKey == null) ? getEndpoint(methodName, parameters) : getAuthorizedEndpoint(methodName, parameters);
@@ -568,6 +588,12 @@ public class CodeforcesClient {
         private String lang = "en";
         private String apiKey;
         private String apiSecret;
+        private RateLimiter rateLimiter;
+        private double callsPerSecond = RateLimiter.DEFAULT_CALLS_PER_SECOND;
+        private int burst = RateLimiter.DEFAULT_BURST;
+        private boolean fair = true;
+        private Duration maxWait;
+        private boolean rateLimited = true;
 
         private Builder() {
         }
@@ -673,13 +699,89 @@ public class CodeforcesClient {
             return this;
         }
 
+        /**
+         * Sets the client-side rate limit of the requests.
+         * The requests exceeding the limit wait before being sent, instead of failing with "Call limit exceeded".
+         *
+         * @param callsPerSecond The number of calls allowed each second on average, must be positive.
+         * @param burst          The number of calls which can be sent at once after an idle period, must be positive.
+         * @return This builder.
+         */
+        public Builder rateLimit(double callsPerSecond, int burst) {
+            if (!(callsPerSecond > 0)) throw new IllegalArgumentException("callsPerSecond must be positive!");
+            if (burst < 1) throw new IllegalArgumentException("burst must be positive!");
+            this.callsPerSecond = callsPerSecond;
+            this.burst = burst;
+            this.rateLimiter = null;
+            this.rateLimited = true;
+            return this;
+        }
+
+        /**
+         * Resets to the default rate limit (5 calls per second, evenly spaced).
+         *
+         * @return This builder.
+         */
+        public Builder rateLimit() {
+            return rateLimit(RateLimiter.DEFAULT_CALLS_PER_SECOND, RateLimiter.DEFAULT_BURST);
+        }
+
+        /**
+         * Sets whether the threads waiting for the rate limiter are served in a FIFO order (the default) or not.
+         *
+         * @param fair <i>true</i> for FIFO ordering, <i>false</i> to allow barging.
+         * @return This builder.
+         */
+        public Builder rateLimitFairness(boolean fair) {
+            this.fair = fair;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a request may wait for the rate limiter.
+         * The requests which would wait longer fail immediately with a CFException, without being sent.
+         *
+         * @param maxWait The maximum wait duration, can be <i>null</i> to wait indefinitely (the default).
+         * @return This builder.
+         */
+        public Builder rateLimitMaxWait(Duration maxWait) {
+            if (maxWait != null && maxWait.isNegative()) throw new IllegalArgumentException("maxWait is negative!");
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Sets a rate limiter instance to use, which allows sharing the same limit across multiple clients.
+         * Overrides the other rate-limit settings of this builder.
+         *
+         * @param rateLimiter The rate limiter to use, can be <i>null</i> to disable rate-limiting.
+         * @return This builder.
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            this.rateLimited = rateLimiter != null;
+            return this;
+        }
+
+        /**
+         * Disables the client-side rate-limiting, the requests exceeding the API limit would fail instead.
+         *
+         * @return This builder.
+         */
+        public Builder noRateLimit() {
+            return rateLimiter(null);
+        }
+
         /**
          * Returns a new CodeforcesClient built from the current state of the builder.
          *
          * @return a new CodeforcesClient.
          */
         public CodeforcesClient build() {
-            return new CodeforcesClient(httpClientBuilder.build(), lang, apiKey, apiSecret);
+            RateLimiter limiter = rateLimiter;
+            if (limiter == null && rateLimited) limiter = new RateLimiter(callsPerSecond, burst, fair, maxWait);
+
+            return new CodeforcesClient(httpClientBuilder.build(), lang, apiKey, apiSecret, limiter);
         }
     }
 
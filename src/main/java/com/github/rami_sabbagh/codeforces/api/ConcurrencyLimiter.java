@@ -0,0 +1,79 @@
+package com.github.rami_sabbagh.codeforces.api;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bounds the number of concurrently executing requests, without blocking any thread.
+ * <p>
+ * The requests exceeding the bound are queued in a FIFO order, and resumed when a running request releases its permit.
+ */
+final class ConcurrencyLimiter {
+
+    /**
+     * The maximum number of concurrently executing requests.
+     */
+    private final int maxConcurrent;
+    /**
+     * The requests waiting for a permit, in arrival order.
+     */
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    /**
+     * The number of permits currently held.
+     */
+    private int active;
+
+    /**
+     * Creates a new concurrency limiter.
+     *
+     * @param maxConcurrent The maximum number of concurrently executing requests, must be positive.
+     */
+    ConcurrencyLimiter(int maxConcurrent) {
+        if (maxConcurrent < 1) throw new IllegalArgumentException("maxConcurrent must be positive!");
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Acquires a permit.
+     *
+     * @return A future which completes once the permit is granted, {@code release()} must be called after that.
+     */
+    synchronized CompletableFuture<Void> acquire() {
+        if (active < maxConcurrent) {
+            active++;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    /**
+     * Releases a permit, handing it over to the oldest waiting request if there's any.
+     */
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            next = waiters.poll();
+            if (next == null) active--;
+        }
+
+        //Completed outside the lock, as it runs the dependent stages of the waiting request.
+        if (next != null) next.complete(null);
+    }
+
+    /**
+     * @return The number of requests waiting for a permit.
+     */
+    synchronized int getQueuedCount() {
+        return waiters.size();
+    }
+
+    /**
+     * @return The number of permits currently held.
+     */
+    synchronized int getActiveCount() {
+        return active;
+    }
+}
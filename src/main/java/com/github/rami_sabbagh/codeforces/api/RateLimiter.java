@@ -0,0 +1,232 @@
+package com.github.rami_sabbagh.codeforces.api;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A client-side token-bucket rate limiter for the Codeforces API calls.
+ * <p>
+ * Each call reserves a sending slot before the request is made, so the callers wait before sending,
+ * instead of failing with a "Call limit exceeded" response after a full round trip.
+ * <p>
+ * The slots are reserved under a lock, and each reservation is never earlier than the previous one,
+ * so when the limiter is fair the callers are served in a FIFO order across threads.
+ * <p>
+ * The time spent waiting is recorded, and can be inspected using the getters of this class.
+ * A single limiter can be shared by several clients using {@code CodeforcesClient.Builder.rateLimiter()}.
+ */
+public final class RateLimiter {
+
+    /**
+     * The default calls rate, the API may be requested at most 5 times in one second.
+     */
+    public static final double DEFAULT_CALLS_PER_SECOND = 5;
+
+    /**
+     * The default burst size, a single call so the calls are evenly spaced in time.
+     */
+    public static final int DEFAULT_BURST = 1;
+
+    /**
+     * The time between 2 tokens in nanoseconds.
+     */
+    private final long intervalNanos;
+    /**
+     * The tolerance of the bucket in nanoseconds, allows {@code burst} calls to be sent at once.
+     */
+    private final long toleranceNanos;
+    /**
+     * The maximum time a caller is allowed to wait in nanoseconds, or -1 to wait indefinitely.
+     */
+    private final long maxWaitNanos;
+    /**
+     * The lock guarding the reservations.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * The theoretical arrival time of the next call, in {@code System.nanoTime()} units.
+     */
+    private long nextSlotNanos;
+
+    /**
+     * Statistics counters, exposed through the getters.
+     */
+    private final LongAdder acquiredCount = new LongAdder(), delayedCount = new LongAdder(),
+            rejectedCount = new LongAdder(), totalWaitNanos = new LongAdder();
+    /**
+     * The longest wait of a single slot in nanoseconds.
+     */
+    private final AtomicLong maxObservedWaitNanos = new AtomicLong();
+    /**
+     * The number of callers currently waiting for a slot.
+     */
+    private final AtomicInteger waitingCount = new AtomicInteger();
+
+    /**
+     * Creates a new rate limiter.
+     *
+     * @param callsPerSecond The number of calls allowed each second on average, must be positive.
+     * @param burst          The number of calls which can be sent at once after an idle period, must be positive.
+     * @param fair           Whether the waiting callers are served in a FIFO order or not.
+     * @param maxWait        (can be null) The maximum time a caller may wait for a slot, null to wait indefinitely.
+     */
+    public RateLimiter(double callsPerSecond, int burst, boolean fair, Duration maxWait) {
+        if (!(callsPerSecond > 0)) throw new IllegalArgumentException("callsPerSecond must be positive!");
+        if (burst < 1) throw new IllegalArgumentException("burst must be positive!");
+        if (maxWait != null && maxWait.isNegative()) throw new IllegalArgumentException("maxWait is negative!");
+
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / callsPerSecond));
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+        this.maxWaitNanos = (maxWait == null) ? -1 : maxWait.toNanos();
+        this.lock = new ReentrantLock(fair);
+        this.nextSlotNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a new fair rate limiter with the default configuration (5 calls per second, evenly spaced).
+     */
+    public RateLimiter() {
+        this(DEFAULT_CALLS_PER_SECOND, DEFAULT_BURST, true, null);
+    }
+
+    /**
+     * Reserves a sending slot, without waiting for it.
+     *
+     * @return The time to wait before sending the call in nanoseconds, 0 when the call can be sent immediately.
+     * @throws CFException When the wait would exceed the maximum wait time of the limiter, no slot is reserved then.
+     */
+    long reserve() throws CFException {
+        long waitNanos;
+
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long allowedAt = Math.max(now, nextSlotNanos - toleranceNanos);
+            waitNanos = allowedAt - now;
+
+            if (maxWaitNanos >= 0 && waitNanos > maxWaitNanos) {
+                rejectedCount.increment();
+                throw new CFException("Call limit exceeded: the rate limiter wait ("
+                        + TimeUnit.NANOSECONDS.toMillis(waitNanos) + "ms) exceeds the maximum wait time.");
+            }
+
+            nextSlotNanos = Math.max(nextSlotNanos, allowedAt) + intervalNanos;
+        } finally {
+            lock.unlock();
+        }
+
+        acquiredCount.increment();
+        if (waitNanos > 0) {
+            delayedCount.increment();
+            totalWaitNanos.add(waitNanos);
+            maxObservedWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        return waitNanos;
+    }
+
+    /**
+     * Blocks until a sending slot is available.
+     *
+     * @return The time waited in nanoseconds.
+     * @throws InterruptedException When the thread is interrupted while waiting.
+     * @throws CFException          When the wait would exceed the maximum wait time of the limiter.
+     */
+    public long acquire() throws InterruptedException, CFException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            waitingCount.incrementAndGet();
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } finally {
+                waitingCount.decrementAndGet();
+            }
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Reserves a sending slot, and returns a future which completes when it's available, without blocking.
+     *
+     * @param executor (can be null) The executor to complete the future on, null for the default async executor.
+     * @return A future completed with the time waited in nanoseconds,
+     * or completed exceptionally with a CFException when the wait would exceed the maximum wait time.
+     */
+    CompletableFuture<Long> acquireAsync(Executor executor) {
+        long waitNanos;
+        try {
+            waitNanos = reserve();
+        } catch (CFException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+
+        if (waitNanos == 0) return CompletableFuture.completedFuture(0L);
+
+        Executor delayed = (executor == null)
+                ? CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                : CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, executor);
+
+        waitingCount.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            waitingCount.decrementAndGet();
+            return waitNanos;
+        }, delayed);
+    }
+
+    /**
+     * @return The number of slots granted by this limiter.
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    /**
+     * @return The number of slots which required waiting before sending.
+     */
+    public long getDelayedCount() {
+        return delayedCount.sum();
+    }
+
+    /**
+     * @return The number of calls rejected because their wait would exceed the maximum wait time.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * @return The number of callers (blocked threads or pending asynchronous requests) currently waiting for a slot.
+     */
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+
+    /**
+     * @return The total time the granted slots waited before sending.
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitNanos.sum());
+    }
+
+    /**
+     * @return The longest time a single granted slot waited before sending.
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxObservedWaitNanos.get());
+    }
+
+    /**
+     * @return The average time a granted slot waited before sending, including the slots which did not wait.
+     */
+    public Duration getAverageWaitTime() {
+        long count = acquiredCount.sum();
+        return (count == 0) ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.sum() / count);
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.rami_sabbagh.codeforces.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("Burst calls are granted without waiting")
+    void burst() throws Exception {
+        RateLimiter limiter = new RateLimiter(1, 3, true, null);
+        for (int i = 0; i < 3; i++)
+            assertEquals(0, limiter.reserve());
+        assertTrue(limiter.reserve() > 0);
+        assertEquals(4, limiter.getAcquiredCount());
+        assertEquals(1, limiter.getDelayedCount());
+    }
+
+    @Test
+    @DisplayName("Reservations are spaced by the rate interval")
+    void spacing() throws Exception {
+        RateLimiter limiter = new RateLimiter(10, 1, true, null);
+        limiter.reserve();
+        long first = limiter.reserve(), second = limiter.reserve();
+        assertTrue(second - first > Duration.ofMillis(90).toNanos());
+    }
+
+    @Test
+    @DisplayName("Calls which would wait too long are rejected")
+    void maxWait() throws Exception {
+        RateLimiter limiter = new RateLimiter(1, 1, true, Duration.ofMillis(100));
+        limiter.reserve();
+        assertThrows(CFException.class, limiter::reserve);
+        assertEquals(1, limiter.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Invalid configuration is rejected")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 1, true, null));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(5, 0, true, null));
+    }
+}